@@ -0,0 +1,451 @@
+/*
+ * EGEventLib - A lightweight Java Event Managing System for handling your
+ * program's events using Annotations. Copyright (C) 2015 Michael Musgrove
+ * 
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ * 
+ */
+package ecrosogames.eventlib.main;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the latency of the {@link EventManager} bounded when it's overloaded.
+ * It counts how many calls of each window of time took longer than a latency
+ * budget, which tells whether or not the 99th percentile of the window was
+ * over the budget, and it watches the backlog of invocations waiting in the
+ * {@link EventMailbox EventMailboxes} and the number of calls running at once.
+ * A window with too few calls to tell its 99th percentile apart is only
+ * judged together with the windows after it, so a single slow call doesn't
+ * count as overload when there's little traffic.
+ * <br>
+ * <br>
+ * Whenever one of them is over its limit, the load level is raised, and it
+ * only comes back down one level after several windows in a row were within
+ * their limits, so it doesn't swing back and forth on every call. The levels
+ * drop {@link Event Events} strictly by their {@link EventImportance}:
+ * <ol>
+ * <li>{@link EventImportance#Low Low} importance events are sampled, and the
+ * {@link EventPriority#Low Low} priority methods of every other event that
+ * isn't {@link EventImportance#Critical Critical} are skipped.</li>
+ * <li>Every Low importance event is dropped, and
+ * {@link EventImportance#Normal Normal} importance events are sampled.</li>
+ * </ol>
+ * So a Normal importance event is never dropped while a Low importance one is
+ * still called, and Critical events are always called in full. Everything that
+ * is dropped is counted, so it can be seen what was lost.
+ * <br>
+ * <br>
+ * It's disabled until a latency budget is set with
+ * {@link #setLatencyBudget(long, TimeUnit)}.
+ * 
+ * @author Michael Musgrove
+ */
+public class AdmissionControl {
+
+	/**
+	 * The highest load level, where every Low importance event is dropped.
+	 */
+	private static final int MAX_LEVEL = 2;
+
+	/**
+	 * The number of windows in a row that have to be within their limits
+	 * before the load level comes down.
+	 */
+	private static final int RECOVERY_WINDOWS = 4;
+
+	/**
+	 * The number of calls a window needs before its 99th percentile is judged.
+	 */
+	private static final int MIN_WINDOW_CALLS = 100;
+
+	private final Map<Class<? extends Event>, EventImportance> importances = new ConcurrentHashMap<>();
+	private final LongAdder[] shed = new LongAdder[EventImportance.values().length];
+	private final LongAdder skippedLowPriority = new LongAdder();
+	private final LongAdder windowCalls = new LongAdder();
+	private final LongAdder windowSlowCalls = new LongAdder();
+	private final AtomicInteger concurrentDispatches = new AtomicInteger();
+	private final AtomicInteger level = new AtomicInteger();
+	private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+	private volatile long latencyBudget;
+	private volatile long window = TimeUnit.MILLISECONDS.toNanos(50);
+	private volatile int maxBacklog;
+	private volatile int maxConcurrentDispatches;
+	private volatile int sampleRate = 10;
+	private volatile boolean pressured;
+	private volatile int calmWindows;
+	private volatile long carriedCalls;
+	private volatile long carriedSlowCalls;
+
+	/**
+	 * Creates a new AdmissionControl.
+	 */
+	AdmissionControl() {
+		for (int i = 0; i < shed.length; i++) {
+			shed[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Sets the latency budget of each call: no more than one call in a hundred
+	 * should take longer than it. Setting it to {@code 0} disables the
+	 * AdmissionControl, so every {@link Event} is called in full.
+	 * 
+	 * @param budget
+	 *            The 99th percentile that a call should stay within.
+	 * @param unit
+	 *            The {@link TimeUnit} of the <code>budget</code>.
+	 */
+	public void setLatencyBudget(long budget, TimeUnit unit) {
+		latencyBudget = unit.toNanos(budget);
+		level.set(0);
+		calmWindows = 0;
+		pressured = false;
+		windowCalls.reset();
+		windowSlowCalls.reset();
+		carriedCalls = 0;
+		carriedSlowCalls = 0;
+		windowStart.set(System.nanoTime());
+	}
+
+	/**
+	 * Returns the latency budget of each call.
+	 * 
+	 * @param unit
+	 *            The {@link TimeUnit} to return the budget in.
+	 * @return The budget, or {@code 0} if the AdmissionControl is disabled.
+	 */
+	public long getLatencyBudget(TimeUnit unit) {
+		return unit.convert(latencyBudget, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns whether or not the AdmissionControl is enabled.
+	 * 
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return latencyBudget > 0;
+	}
+
+	/**
+	 * Sets the length of each window that the calls are checked against the
+	 * latency budget in. It's 50 milliseconds by default.
+	 * 
+	 * @param window
+	 *            The length of each window.
+	 * @param unit
+	 *            The {@link TimeUnit} of the <code>window</code>.
+	 */
+	public void setWindow(long window, TimeUnit unit) {
+		if (window <= 0) throw new IllegalArgumentException("The window must be longer than 0: " + window);
+		this.window = unit.toNanos(window);
+	}
+
+	/**
+	 * Sets the number of invocations that may wait in the
+	 * {@link EventMailbox EventMailboxes} at once. Once half of it is reached,
+	 * the load level is raised to at least the first level, and once all of it
+	 * is reached, to the highest level.
+	 * 
+	 * @param maxBacklog
+	 *            The number of invocations, or {@code 0} for no limit.
+	 */
+	public void setMaxBacklog(int maxBacklog) {
+		this.maxBacklog = maxBacklog;
+	}
+
+	/**
+	 * Sets the number of calls that may run at once before the load level is
+	 * raised to the highest level.
+	 * 
+	 * @param maxConcurrentDispatches
+	 *            The number of calls, or {@code 0} for no limit.
+	 */
+	public void setMaxConcurrentDispatches(int maxConcurrentDispatches) {
+		this.maxConcurrentDispatches = maxConcurrentDispatches;
+	}
+
+	/**
+	 * Sets how many events are sampled while overloaded: one out of every
+	 * <code>sampleRate</code> events is called.
+	 * 
+	 * @param sampleRate
+	 *            The sample rate, which must be at least {@code 1}.
+	 */
+	public void setSampleRate(int sampleRate) {
+		if (sampleRate < 1) throw new IllegalArgumentException("The sample rate must be at least 1: " + sampleRate);
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Sets the {@link EventImportance} of the specified {@link Event} class.
+	 * 
+	 * @param eventClass
+	 *            The {@link Event} class to set the importance of.
+	 * @param importance
+	 *            The {@link EventImportance} of the class.
+	 */
+	public void setImportance(Class<? extends Event> eventClass, EventImportance importance) {
+		importances.put(eventClass, importance);
+	}
+
+	/**
+	 * Returns the {@link EventImportance} of the specified {@link Event} class.
+	 * 
+	 * @param eventClass
+	 *            The {@link Event} class to get the importance of.
+	 * @return The {@link EventImportance}, which is
+	 *         {@link EventImportance#Normal Normal} if it was never set.
+	 */
+	public EventImportance getImportance(Class<? extends Event> eventClass) {
+		return importances.getOrDefault(eventClass, EventImportance.Normal);
+	}
+
+	/**
+	 * Returns the number of events of the specified {@link EventImportance}
+	 * that were dropped without being called.
+	 * 
+	 * @param importance
+	 *            The {@link EventImportance} to get the count of.
+	 * @return
+	 */
+	public long getShedCount(EventImportance importance) {
+		return shed[importance.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of calls that skipped their
+	 * {@link EventPriority#Low Low} priority methods.
+	 * 
+	 * @return
+	 */
+	public long getSkippedLowPriorityCount() {
+		return skippedLowPriority.sum();
+	}
+
+	/**
+	 * Returns the number of invocations waiting in every
+	 * {@link EventMailbox}.
+	 * 
+	 * @return
+	 */
+	public long getBacklog() {
+		return EventMailbox.getTotalSize();
+	}
+
+	/**
+	 * Returns the number of calls that are running right now.
+	 * 
+	 * @return
+	 */
+	public int getConcurrentDispatches() {
+		return concurrentDispatches.get();
+	}
+
+	/**
+	 * Returns the current load level: {@code 0} when nothing is dropped, up to
+	 * {@code 2} when every Low importance event is dropped.
+	 * 
+	 * @return
+	 */
+	public int getLoadLevel() {
+		return level.get();
+	}
+
+	/**
+	 * Returns whether or not the {@link EventManager} is overloaded, so
+	 * {@link Event Events} are being dropped.
+	 * 
+	 * @return
+	 */
+	public boolean isOverloaded() {
+		return level.get() > 0;
+	}
+
+	/**
+	 * Resets every shed and skip count to {@code 0}.
+	 */
+	public void resetCounts() {
+		for (int i = 0; i < shed.length; i++) {
+			shed[i].reset();
+		}
+		skippedLowPriority.reset();
+	}
+
+	/**
+	 * Decides whether or not an {@link Event} of the specified class should
+	 * be called, and whether or not its Low priority methods should be
+	 * skipped. If it's admitted, {@link #complete(long)} has to be called once
+	 * the call is finished.
+	 * 
+	 * @param eventClass
+	 *            The class of the {@link Event} that is being called.
+	 * @param now
+	 *            The {@link System#nanoTime()} of when the call started.
+	 * @return The {@link Admission} of the {@link Event}.
+	 */
+	Admission admit(Class<? extends Event> eventClass, long now) {
+		long start = windowStart.get();
+		long elapsed = (now - start) / window;
+		if (elapsed > 0 && windowStart.compareAndSet(start, now)) endWindow(elapsed - 1);
+
+		int max = maxConcurrentDispatches;
+		if (max > 0 && concurrentDispatches.get() >= max) raise(MAX_LEVEL);
+		int backlog = maxBacklog;
+		if (backlog > 0) {
+			long size = EventMailbox.getTotalSize();
+			if (size >= backlog) raise(MAX_LEVEL);
+			else if (size * 2 >= backlog) raise(1);
+		}
+
+		int level = this.level.get();
+		EventImportance importance = getImportance(eventClass);
+		if (level == 0 || importance == EventImportance.Critical) {
+			concurrentDispatches.incrementAndGet();
+			return Admission.Full;
+		}
+
+		boolean sampled;
+		if (importance == EventImportance.Low) sampled = level < MAX_LEVEL && ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+		else sampled = level < MAX_LEVEL || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+		if (!sampled) {
+			shed[importance.ordinal()].increment();
+			return Admission.Shed;
+		}
+		skippedLowPriority.increment();
+		concurrentDispatches.incrementAndGet();
+		return Admission.SkipLowPriority;
+	}
+
+	/**
+	 * Finishes a call that was admitted by {@link #admit(Class, long)},
+	 * counting whether or not it took longer than the latency budget.
+	 * 
+	 * @param startNanos
+	 *            The {@link System#nanoTime()} of when the call started.
+	 */
+	void complete(long startNanos) {
+		concurrentDispatches.decrementAndGet();
+		windowCalls.increment();
+		if (System.nanoTime() - startNanos > latencyBudget) windowSlowCalls.increment();
+	}
+
+	/**
+	 * Raises the load level to at least the specified level, and marks the
+	 * current window as over its limits.
+	 * 
+	 * @param to
+	 *            The level to raise to.
+	 */
+	private void raise(int to) {
+		pressured = true;
+		int current;
+		while ((current = level.get()) < to) {
+			if (level.compareAndSet(current, to)) return;
+		}
+	}
+
+	/**
+	 * Ends the current window. If more than one call in a hundred took longer
+	 * than the latency budget, the load level is raised by one. A window with
+	 * fewer than {@link #MIN_WINDOW_CALLS} calls isn't judged; its calls are
+	 * carried into the next window instead, unless the next one starts after
+	 * an idle period. Windows that were within their limits, including the
+	 * ones that passed without any call, lower the load level by one every
+	 * {@link #RECOVERY_WINDOWS}. Only the thread that started the new window
+	 * calls this.
+	 * 
+	 * @param idleWindows
+	 *            The number of whole windows that passed without any call
+	 *            since the current window started.
+	 */
+	private void endWindow(long idleWindows) {
+		long calls = windowCalls.sumThenReset();
+		long slowCalls = windowSlowCalls.sumThenReset();
+		if (idleWindows == 0) {
+			calls += carriedCalls;
+			slowCalls += carriedSlowCalls;
+		}
+		boolean overBudget = false;
+		if (calls >= MIN_WINDOW_CALLS) {
+			overBudget = slowCalls * 100 > calls;
+			carriedCalls = 0;
+			carriedSlowCalls = 0;
+		} else {
+			carriedCalls = calls;
+			carriedSlowCalls = slowCalls;
+		}
+		if (overBudget) raise(Math.min(level.get() + 1, MAX_LEVEL));
+
+		if (overBudget || pressured) {
+			pressured = false;
+			calmWindows = 0;
+			addCalmWindows(idleWindows);
+		} else {
+			addCalmWindows(idleWindows + 1);
+		}
+	}
+
+	/**
+	 * Counts windows that were within their limits, lowering the load level by
+	 * one for every {@link #RECOVERY_WINDOWS} of them in a row.
+	 * 
+	 * @param count
+	 *            The number of windows.
+	 */
+	private void addCalmWindows(long count) {
+		long calm = calmWindows + count;
+		int current;
+		while (calm >= RECOVERY_WINDOWS && (current = level.get()) > 0) {
+			if (level.compareAndSet(current, current - 1)) calm -= RECOVERY_WINDOWS;
+		}
+		calmWindows = (int) Math.min(calm, RECOVERY_WINDOWS);
+	}
+
+	@Override
+	public String toString() {
+		return "AdmissionControl[budget=" + latencyBudget + "ns, level=" + level.get() + ", backlog=" + getBacklog() + ", shedLow=" + getShedCount(EventImportance.Low) + ", shedNormal=" + getShedCount(EventImportance.Normal) + ", skippedLowPriority=" + getSkippedLowPriorityCount() + "]";
+	}
+
+	/**
+	 * What the {@link AdmissionControl} decided to do with a call.
+	 * 
+	 * @author Michael Musgrove
+	 */
+	enum Admission {
+
+		/**
+		 * The {@link Event} is dropped without being called.
+		 */
+		Shed,
+
+		/**
+		 * The {@link Event} is called without its Low priority methods.
+		 */
+		SkipLowPriority,
+
+		/**
+		 * The {@link Event} is called in full.
+		 */
+		Full;
+	}
+}
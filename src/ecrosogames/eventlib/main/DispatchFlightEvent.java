@@ -0,0 +1,54 @@
+/*
+ * EGEventLib - A lightweight Java Event Managing System for handling your
+ * program's events using Annotations. Copyright (C) 2015 Michael Musgrove
+ * 
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ * 
+ */
+package ecrosogames.eventlib.main;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event that is committed once for every call to the
+ * {@link EventManager}. It's only recorded while a recording has it enabled,
+ * so it costs next to nothing otherwise.
+ * 
+ * @author Michael Musgrove
+ */
+@Name("ecrosogames.eventlib.Dispatch")
+@Label("Event Dispatch")
+@Category("EGEventLib")
+@Description("A call of an Event through the EventManager")
+@StackTrace(false)
+final class DispatchFlightEvent extends jdk.jfr.Event {
+
+	@Label("Event Class")
+	Class<?> eventClass;
+
+	@Label("Handler Count")
+	@Description("The number of handlers that were invoked for the Event")
+	int handlerCount;
+
+	@Label("Cancelled")
+	boolean cancelled;
+
+	@Label("Admission")
+	@Description("What the AdmissionControl decided: Full, SkipLowPriority or Shed")
+	String admission;
+}
@@ -39,4 +39,28 @@ public @interface EventHandler {
 	 * @return
 	 */
 	public abstract EventPriority value() default EventPriority.Normal;
+
+	/**
+	 * Returns the name of the target thread that the method has to run on. If
+	 * it's empty, the method runs inline on the thread that called the
+	 * {@link Event}; otherwise it's routed into the {@link EventMailbox} of
+	 * that name, and runs when the mailbox is drained. The mailbox has to be
+	 * registered before the {@link EventListener} is. Since the method runs
+	 * later, it can't cancel the {@link Event} before its
+	 * {@link EventCallback} runs.
+	 * <br>
+	 * <br>
+	 * The method is handed the same {@link Event} instance, often on another
+	 * thread, while the inline methods and the {@link EventCallback} may still
+	 * be changing it on the calling thread, such as with
+	 * {@link Event#setCancelled(boolean)} or {@link IntEvent#setValue(int)}.
+	 * Nothing synchronizes the two, so the method has to treat the
+	 * {@link Event} as read-only, and can't rely on seeing any change that
+	 * was made to it after it was called.
+	 * 
+	 * @see EventManager#registerEventMailbox(String)
+	 * 
+	 * @return
+	 */
+	public abstract String target() default "";
 }
@@ -0,0 +1,51 @@
+/*
+ * EGEventLib - A lightweight Java Event Managing System for handling your
+ * program's events using Annotations. Copyright (C) 2015 Michael Musgrove
+ * 
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ * 
+ */
+package ecrosogames.eventlib.main;
+
+/**
+ * A helper to distinguish how important an {@link Event} class is when the
+ * {@link EventManager} is overloaded. Unlike the {@link EventPriority}, which
+ * orders the methods of a single {@link Event}, it decides which
+ * {@link Event Events} are dropped first by the {@link AdmissionControl}.
+ * 
+ * @author Michael Musgrove
+ */
+public enum EventImportance {
+
+	/**
+	 * The Lowest importance. These events are sampled as soon as the
+	 * {@link AdmissionControl} raises the load level, and are all dropped at
+	 * the highest load level.
+	 */
+	Low,
+
+	/**
+	 * The Normal importance. It's the default importance. These events lose
+	 * their Low priority methods as soon as the {@link AdmissionControl}
+	 * raises the load level, and are only sampled at the highest load level,
+	 * once every Low importance event is dropped.
+	 */
+	Normal,
+
+	/**
+	 * The Critical importance. These events are always called in full, no
+	 * matter how overloaded the {@link EventManager} is.
+	 */
+	Critical;
+}
@@ -0,0 +1,220 @@
+/*
+ * EGEventLib - A lightweight Java Event Managing System for handling your
+ * program's events using Annotations. Copyright (C) 2015 Michael Musgrove
+ * 
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ * 
+ */
+package ecrosogames.eventlib.main;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * A lock-free queue of {@link RegisteredEvent} invocations that have to run on
+ * a specific thread, such as a render thread or the main game thread. Any
+ * {@link EventHandler} with a {@link EventHandler#target() target} is routed
+ * into the mailbox of that name when its {@link Event} is called, and runs
+ * when the owning thread calls {@link #drain()}. If an {@link Executor} is set,
+ * the mailbox hands itself to it to be drained, once for each batch of
+ * invocations instead of once for each invocation.
+ * 
+ * @author Michael Musgrove
+ */
+public class EventMailbox {
+
+	private static final Logger logger = Logger.getLogger("EGEventManager");
+
+	/**
+	 * The number of waiting invocations at which a mailbox that has never been
+	 * drained, and has no {@link Executor}, logs a warning.
+	 */
+	private static final int UNDRAINED_WARNING_SIZE = 10_000;
+
+	private static final LongAdder totalSize = new LongAdder();
+
+	private final String target;
+	private final Queue<Invocation> invocations = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private final AtomicBoolean warned = new AtomicBoolean();
+	private volatile boolean drained;
+	private volatile boolean rejected;
+	private final Runnable drainTask = () -> {
+		scheduled.set(false);
+		drain();
+	};
+	private volatile Executor executor;
+
+	/**
+	 * Creates a new EventMailbox.
+	 * 
+	 * @param target
+	 *            The name of the target that the {@link EventHandler
+	 *            EventHandlers} of this mailbox are marked with.
+	 */
+	EventMailbox(String target) {
+		this.target = target;
+	}
+
+	/**
+	 * Returns the name of the target of this EventMailbox.
+	 * 
+	 * @return
+	 */
+	public String getTarget() {
+		return target;
+	}
+
+	/**
+	 * Sets the {@link Executor} that should drain this EventMailbox whenever
+	 * invocations are added to it. The {@link Executor} should run its tasks
+	 * one at a time, on the target's thread, otherwise the invocations may not
+	 * run in order. If the {@link Executor} rejects the mailbox, such as after
+	 * it was shut down, the invocations stay in the mailbox until it's drained
+	 * or another {@link Executor} is set.
+	 * 
+	 * @param executor
+	 *            The {@link Executor} to drain this EventMailbox with, or
+	 *            {@code null} if the owning thread drains it itself.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+		if (executor != null && !invocations.isEmpty()) schedule(executor);
+	}
+
+	/**
+	 * Returns the {@link Executor} that drains this EventMailbox.
+	 * 
+	 * @return The {@link Executor}, or {@code null} if there is none.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Returns the number of invocations waiting in this EventMailbox. It's
+	 * kept in a counter, so it doesn't have to walk the queue.
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Returns the number of invocations waiting in every EventMailbox. It's
+	 * kept in a counter, so the {@link AdmissionControl} can read it on every
+	 * call.
+	 * 
+	 * @return
+	 */
+	static long getTotalSize() {
+		return totalSize.sum();
+	}
+
+	/**
+	 * Adds an invocation of the {@link RegisteredEvent} to this EventMailbox.
+	 * 
+	 * @param registeredEvent
+	 *            The {@link RegisteredEvent} to invoke.
+	 * @param event
+	 *            The {@link Event} to invoke it with.
+	 */
+	void enqueue(RegisteredEvent registeredEvent, Event event) {
+		invocations.offer(new Invocation(registeredEvent, event));
+		int size = this.size.incrementAndGet();
+		totalSize.increment();
+		Executor executor = this.executor;
+		if (executor != null) {
+			schedule(executor);
+		} else if (size >= UNDRAINED_WARNING_SIZE && !drained && warned.compareAndSet(false, true)) {
+			logger.warning("EventMailbox \"" + target + "\" has " + size + " waiting invocations, but has no Executor and has never been drained!");
+		}
+	}
+
+	/**
+	 * Hands this EventMailbox to the {@link Executor} to be drained, unless it
+	 * already is. If the {@link Executor} throws, it's logged instead of
+	 * passed on, so the rest of the call still runs, and the next invocation
+	 * tries again.
+	 * 
+	 * @param executor
+	 *            The {@link Executor} to drain this EventMailbox with.
+	 */
+	private void schedule(Executor executor) {
+		if (!scheduled.compareAndSet(false, true)) return;
+		try {
+			executor.execute(drainTask);
+			rejected = false;
+		} catch (RuntimeException e) {
+			scheduled.set(false);
+			if (!rejected) {
+				rejected = true;
+				logger.warning("EventMailbox \"" + target + "\" couldn't be handed to its Executor: " + e);
+			}
+		}
+	}
+
+	/**
+	 * Runs every invocation that is waiting in this EventMailbox, in the order
+	 * that they were added, on the calling thread. Since the invocations of a
+	 * call are added in priority order, they also run in priority order. This
+	 * should only be called by the thread that owns the target. An invocation
+	 * whose {@link EventListener} was unregistered after it was added is
+	 * dropped instead of run.
+	 * 
+	 * @return The number of invocations that were run.
+	 */
+	public int drain() {
+		drained = true;
+		int ran = 0;
+		Invocation invocation;
+		while ((invocation = invocations.poll()) != null) {
+			size.decrementAndGet();
+			totalSize.decrement();
+			RegisteredEvent registeredEvent = invocation.registeredEvent;
+			if (!EventManager.isEventListenerRegistered(registeredEvent.getListener().getClass())) continue;
+			try {
+				EventManager.invokeRegisteredEvent(registeredEvent, invocation.event);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+			ran++;
+		}
+		return ran;
+	}
+
+	/**
+	 * A single {@link RegisteredEvent} that is waiting to be invoked with its
+	 * {@link Event}.
+	 * 
+	 * @author Michael Musgrove
+	 */
+	private static class Invocation {
+
+		private final RegisteredEvent registeredEvent;
+		private final Event event;
+
+		private Invocation(RegisteredEvent registeredEvent, Event event) {
+			this.registeredEvent = registeredEvent;
+			this.event = event;
+		}
+	}
+}
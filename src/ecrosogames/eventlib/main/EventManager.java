@@ -18,15 +18,23 @@
  */
 package ecrosogames.eventlib.main;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import ecrosogames.eventlib.main.AdmissionControl.Admission;
+
 /**
  * A manager for handling each and every established {@link Event}.
  * 
@@ -38,6 +46,11 @@ public class EventManager {
 
 	private static final List<Class<? extends Event>> eventClasses = new ArrayList<>();
 	private static final List<Class<? extends EventListener>> registeredListeners = new ArrayList<>();
+	private static final Map<Class<? extends Event>, MethodHandle> eventFactories = new ConcurrentHashMap<>();
+	private static final Map<String, EventMailbox> mailboxes = new ConcurrentHashMap<>();
+	private static final AdmissionControl admissionControl = new AdmissionControl();
+
+	private static volatile boolean compiledDispatch;
 
 	private EventManager() {
 	}
@@ -60,6 +73,40 @@ public class EventManager {
 		return false;
 	}
 
+	/**
+	 * Registers the specified {@link Event} class for handling its events, with
+	 * the {@link EventImportance} that the {@link AdmissionControl} should
+	 * give it when the {@link EventManager} is overloaded. The importance is
+	 * only set if the class is registered, so an {@code abstract} or already
+	 * registered class keeps the importance it had.
+	 * 
+	 * @see #registerEventClass(Class)
+	 * @see AdmissionControl#setImportance(Class, EventImportance)
+	 * 
+	 * @param event
+	 *            The {@link Event} that should be registered.
+	 * @param importance
+	 *            The {@link EventImportance} of the {@link Event}.
+	 * @return {@code true} if the {@link Event} successfully registered,
+	 *         {@code false} if not.
+	 */
+	public static boolean registerEventClass(Class<? extends Event> event, EventImportance importance) {
+		if (!registerEventClass(event)) return false;
+		admissionControl.setImportance(event, importance);
+		return true;
+	}
+
+	/**
+	 * Returns the {@link AdmissionControl} that decides which {@link Event
+	 * Events} are dropped when the {@link EventManager} is overloaded, and
+	 * counts what was dropped.
+	 * 
+	 * @return
+	 */
+	public static AdmissionControl getAdmissionControl() {
+		return admissionControl;
+	}
+
 	/**
 	 * Unregisters the specified {@link Event} class so it is no longer handled.
 	 * Any methods that handled this type of event aren't removed, in case the
@@ -89,6 +136,104 @@ public class EventManager {
 		return eventClasses.contains(eventClass);
 	}
 
+	/**
+	 * Sets whether or not {@link Event Events} are dispatched through a
+	 * compiled dispatcher. When enabled, a single {@link MethodHandle} is
+	 * composed for each {@link Event} class that calls every one of its
+	 * {@link RegisteredEvent RegisteredEvents} in priority order, so a call
+	 * doesn't have to search every {@link RegisteredEvent} for the ones of its
+	 * class. The dispatchers are composed again whenever an
+	 * {@link EventListener} is registered or unregistered. Note that the
+	 * {@link HandlerFlightEvent} isn't recorded for compiled dispatches.
+	 * 
+	 * @param enabled
+	 *            If true, compiled dispatchers are used; if false, every call
+	 *            searches the {@link RegisteredEvent RegisteredEvents}.
+	 */
+	public static void setCompiledDispatch(boolean enabled) {
+		compiledDispatch = enabled;
+		CompiledDispatchers.invalidate();
+	}
+
+	/**
+	 * Returns whether or not {@link Event Events} are dispatched through a
+	 * compiled dispatcher.
+	 * 
+	 * @see #setCompiledDispatch(boolean)
+	 * 
+	 * @return
+	 */
+	public static boolean isCompiledDispatch() {
+		return compiledDispatch;
+	}
+
+	/**
+	 * Registers the {@link EventMailbox} of the specified target, so
+	 * {@link EventHandler EventHandlers} can be marked with it. A method
+	 * marked with a target that isn't registered when its
+	 * {@link EventListener} is registered is left out with a warning, so a
+	 * misspelled target can't fill a mailbox that nobody drains.
+	 * 
+	 * @param target
+	 *            The name of the target, as in {@link EventHandler#target()}.
+	 * @return The {@link EventMailbox} of the target, which is the same one if
+	 *         it was already registered.
+	 */
+	public static EventMailbox registerEventMailbox(String target) {
+		if (target.isEmpty()) throw new IllegalArgumentException("The target of an EventMailbox can not be empty");
+		return mailboxes.computeIfAbsent(target, EventMailbox::new);
+	}
+
+	/**
+	 * Registers the {@link EventMailbox} of the specified target, and sets
+	 * the {@link Executor} that drains it.
+	 * 
+	 * @see #registerEventMailbox(String)
+	 * @see EventMailbox#setExecutor(Executor)
+	 * 
+	 * @param target
+	 *            The name of the target, as in {@link EventHandler#target()}.
+	 * @param executor
+	 *            The {@link Executor} that drains the {@link EventMailbox}.
+	 * @return The {@link EventMailbox} of the target.
+	 */
+	public static EventMailbox registerEventMailbox(String target, Executor executor) {
+		EventMailbox mailbox = registerEventMailbox(target);
+		mailbox.setExecutor(executor);
+		return mailbox;
+	}
+
+	/**
+	 * Returns the {@link EventMailbox} of the specified target. Every
+	 * {@link EventHandler} marked with the target is routed into it when its
+	 * {@link Event} is called, instead of running inline.
+	 * 
+	 * @param target
+	 *            The name of the target, as in {@link EventHandler#target()}.
+	 * @return The {@link EventMailbox} of the target, or {@code null} if it
+	 *         was never registered.
+	 */
+	public static EventMailbox getEventMailbox(String target) {
+		return mailboxes.get(target);
+	}
+
+	/**
+	 * Runs every invocation that is waiting in the {@link EventMailbox} of the
+	 * specified target on the calling thread, which should be the thread that
+	 * owns the target.
+	 * 
+	 * @see EventMailbox#drain()
+	 * 
+	 * @param target
+	 *            The name of the target, as in {@link EventHandler#target()}.
+	 * @return The number of invocations that were run, which is {@code 0} if
+	 *         the target was never registered.
+	 */
+	public static int drainEventMailbox(String target) {
+		EventMailbox mailbox = getEventMailbox(target);
+		return mailbox == null ? 0 : mailbox.drain();
+	}
+
 	/**
 	 * Registers a new {@link EventListener}. If the class for the
 	 * {@link EventListener} has already been registered, it will not register
@@ -104,6 +249,7 @@ public class EventManager {
 		if (!registeredListeners.contains(listener)) {
 			newlyRegistered = registerEventHandlers(listener);
 			registeredListeners.add(listener.getClass());
+			CompiledDispatchers.invalidate();
 		}
 		return newlyRegistered;
 	}
@@ -131,9 +277,20 @@ public class EventManager {
 				EventHandler[] methodAnnotations = method.getDeclaredAnnotationsByType(EventHandler.class);
 				if (methodAnnotations.length == 0) continue;
 				EventHandler eventHandlerAnnotation = methodAnnotations[0];
+				String target = eventHandlerAnnotation.target();
+				if (!target.isEmpty() && !mailboxes.containsKey(target)) {
+					logger.warning("EventManager.registerEventListener(EventListener) skipped " + method + ": its target \"" + target + "\" has no registered EventMailbox!");
+					continue;
+				}
 				EventPriority priority = eventHandlerAnnotation.value();
 				Class<? extends Event> eventClass = (Class<? extends Event>) method.getParameterTypes()[0];
-				RegisteredEvent registeredEvent = new RegisteredEvent(listener, method, eventClass, priority);
+				RegisteredEvent registeredEvent;
+				try {
+					registeredEvent = new RegisteredEvent(listener, method, eventClass, priority, target);
+				} catch (RuntimeException e) {
+					logger.warning("EventManager.registerEventListener(EventListener) skipped " + method + ": it can not be made accessible! " + e);
+					continue;
+				}
 				PrioritizedEvents.addRegisteredEvent(registeredEvent);
 			}
 		} catch (Exception e) {
@@ -155,6 +312,7 @@ public class EventManager {
 	public static boolean unregisterEventListener(EventListener listener) {
 		if (registeredListeners.contains(listener)) {
 			registeredListeners.remove(listener.getClass());
+			CompiledDispatchers.invalidate();
 			return true;
 		}
 		return false;
@@ -208,8 +366,7 @@ public class EventManager {
 	public static final <T extends Event> void call(EventCallback<T> eventExecutor, Class<T> eventClass, Object... eventArgs) {
 		if (!checkIsEventClassRegistered(eventClass)) return;
 		try {
-			Class<?>[] constructorParameters = EventUtilities.getArrayOfClasses(eventArgs);
-			Constructor<?> constructor = eventClass.getDeclaredConstructor(constructorParameters);
+			Constructor<?> constructor = EventUtilities.getConstructor(eventClass, eventArgs);
 
 			T event = (T) eventClass.cast(constructor.newInstance(eventArgs));
 			if (!sortAndCallAllRegisteredMethods(event)) eventExecutor.execute(event);
@@ -239,8 +396,7 @@ public class EventManager {
 			Event event = null;
 			Constructor<?> constructor = null;
 
-			Class<?>[] constructorParameters = EventUtilities.getArrayOfClasses(eventArgs);
-			constructor = eventClass.getDeclaredConstructor(constructorParameters);
+			constructor = EventUtilities.getConstructor(eventClass, eventArgs);
 
 			event = eventClass.cast(constructor.newInstance(eventArgs));
 
@@ -251,23 +407,198 @@ public class EventManager {
 	}
 
 	/**
-	 * A method that sorts then all of the Registered Methods.
+	 * Calls an {@link Event} that has already been created. Since nothing has
+	 * to be looked up or constructed, no argument array is allocated and no
+	 * primitive is boxed. The {@link Event} won't run if its class isn't
+	 * registered.
+	 * 
+	 * @see #call(EventCallback, Event)
+	 * 
+	 * @param event
+	 *            The {@link Event} that should be called.
+	 */
+	public static void call(Event event) {
+		if (!checkIsEventClassRegistered(event.getClass())) return;
+		sortAndCallAllRegisteredMethods(event);
+	}
+
+	/**
+	 * Calls an {@link Event} that has already been created, then runs the
+	 * {@link EventCallback} if it wasn't cancelled. The {@link Event} won't
+	 * run if its class isn't registered.
+	 * 
+	 * @see #call(Event)
+	 * 
+	 * @param eventExecutor
+	 *            What should execute if the {@link Event} is not cancelled.
+	 * @param event
+	 *            The {@link Event} that should be called.
+	 */
+	public static <T extends Event> void call(EventCallback<T> eventExecutor, T event) {
+		if (!checkIsEventClassRegistered(event.getClass())) return;
+		if (!sortAndCallAllRegisteredMethods(event)) eventExecutor.execute(event);
+	}
+
+	/**
+	 * Calls the specified {@link IntEvent} class with the specified payload.
+	 * The class must have a Constructor that takes no arguments. The value is
+	 * never boxed, and the {@link Event} won't run if the specified class
+	 * isn't registered.
+	 * 
+	 * @param eventClass
+	 *            The {@link IntEvent} that should be called.
+	 * @param value
+	 *            The payload of the {@link IntEvent}.
+	 */
+	public static <T extends IntEvent> void callInt(Class<T> eventClass, int value) {
+		T event = createEvent(eventClass);
+		if (event == null) return;
+		event.setValue(value);
+		sortAndCallAllRegisteredMethods(event);
+	}
+
+	/**
+	 * Calls the specified {@link IntEvent} class with the specified payload,
+	 * then runs the {@link EventCallback} if it wasn't cancelled.
+	 * 
+	 * @see #callInt(Class, int)
+	 * 
+	 * @param eventExecutor
+	 *            What should execute if the {@link Event} is not cancelled.
+	 * @param eventClass
+	 *            The {@link IntEvent} that should be called.
+	 * @param value
+	 *            The payload of the {@link IntEvent}.
+	 */
+	public static <T extends IntEvent> void callInt(EventCallback<T> eventExecutor, Class<T> eventClass, int value) {
+		T event = createEvent(eventClass);
+		if (event == null) return;
+		event.setValue(value);
+		if (!sortAndCallAllRegisteredMethods(event)) eventExecutor.execute(event);
+	}
+
+	/**
+	 * Calls the specified {@link LongEvent} class with the specified payload.
+	 * The class must have a Constructor that takes no arguments. The value is
+	 * never boxed, and the {@link Event} won't run if the specified class
+	 * isn't registered.
+	 * 
+	 * @param eventClass
+	 *            The {@link LongEvent} that should be called.
+	 * @param value
+	 *            The payload of the {@link LongEvent}.
+	 */
+	public static <T extends LongEvent> void callLong(Class<T> eventClass, long value) {
+		T event = createEvent(eventClass);
+		if (event == null) return;
+		event.setValue(value);
+		sortAndCallAllRegisteredMethods(event);
+	}
+
+	/**
+	 * Calls the specified {@link LongEvent} class with the specified payload,
+	 * then runs the {@link EventCallback} if it wasn't cancelled.
+	 * 
+	 * @see #callLong(Class, long)
+	 * 
+	 * @param eventExecutor
+	 *            What should execute if the {@link Event} is not cancelled.
+	 * @param eventClass
+	 *            The {@link LongEvent} that should be called.
+	 * @param value
+	 *            The payload of the {@link LongEvent}.
+	 */
+	public static <T extends LongEvent> void callLong(EventCallback<T> eventExecutor, Class<T> eventClass, long value) {
+		T event = createEvent(eventClass);
+		if (event == null) return;
+		event.setValue(value);
+		if (!sortAndCallAllRegisteredMethods(event)) eventExecutor.execute(event);
+	}
+
+	/**
+	 * Creates a new instance of the specified {@link Event} class with its
+	 * Constructor that takes no arguments. The Constructor is looked up once,
+	 * and then cached as a {@link MethodHandle} so later calls don't allocate
+	 * anything but the {@link Event} itself.
+	 * 
+	 * @param eventClass
+	 *            The {@link Event} class to create.
+	 * @return The new {@link Event}, or {@code null} if the class isn't
+	 *         registered or couldn't be constructed.
+	 */
+	private static <T extends Event> T createEvent(Class<T> eventClass) {
+		if (!checkIsEventClassRegistered(eventClass)) return null;
+		try {
+			MethodHandle factory = eventFactories.computeIfAbsent(eventClass, EventManager::createEventFactory);
+			return eventClass.cast((Event) factory.invokeExact());
+		} catch (Throwable t) {
+			t.printStackTrace();
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a {@link MethodHandle} of the type {@code ()Event} for the
+	 * Constructor of the specified {@link Event} class that takes no
+	 * arguments.
+	 * 
+	 * @param eventClass
+	 *            The {@link Event} class to create the factory for.
+	 * @return The factory.
+	 * @throws IllegalArgumentException
+	 *             If the class has no such Constructor, or it can not be made
+	 *             accessible.
+	 */
+	private static MethodHandle createEventFactory(Class<? extends Event> eventClass) {
+		try {
+			Constructor<? extends Event> constructor = eventClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Event.class));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalArgumentException(eventClass.getName() + " has no accessible Constructor that takes no arguments", e);
+		}
+	}
+
+	/**
+	 * A method that sorts then all of the Registered Methods. If the
+	 * {@link AdmissionControl} sheds the {@link Event}, it is cancelled
+	 * without calling any of them. The {@link DispatchFlightEvent} is
+	 * committed whether the call finished, failed or was shed.
 	 * 
 	 * @param event
 	 *            The {@link Event} that is being called.
 	 * @return Whether or not the {@link Event} has been cancelled.
 	 */
 	private static boolean sortAndCallAllRegisteredMethods(Event event) {
+		Object flightEvent = FlightRecording.beginDispatch();
+		Admission admission = Admission.Full;
+		boolean admitted = false;
+		long startNanos = 0;
+		int handlerCount = 0;
 		try {
-			boolean cancelled;
-
-			cancelled = callRegisteredMethods(event, PrioritizedEvents.getRegisteredEvents(EventPriority.Low));
-			cancelled = callRegisteredMethods(event, PrioritizedEvents.getRegisteredEvents(EventPriority.Normal));
-			cancelled = callRegisteredMethods(event, PrioritizedEvents.getRegisteredEvents(EventPriority.High));
+			if (admissionControl.isEnabled()) {
+				startNanos = System.nanoTime();
+				admission = admissionControl.admit(event.getClass(), startNanos);
+				if (admission == Admission.Shed) {
+					event.setCancelled(true);
+					return true;
+				}
+				admitted = true;
+			}
 
-			return cancelled;
+			if (compiledDispatch) {
+				handlerCount = CompiledDispatchers.dispatch(event, admission == Admission.SkipLowPriority);
+			} else {
+				if (admission != Admission.SkipLowPriority) handlerCount += callRegisteredMethods(event, PrioritizedEvents.getRegisteredEvents(EventPriority.Low));
+				handlerCount += callRegisteredMethods(event, PrioritizedEvents.getRegisteredEvents(EventPriority.Normal));
+				handlerCount += callRegisteredMethods(event, PrioritizedEvents.getRegisteredEvents(EventPriority.High));
+			}
+			return event.isCancelled();
 		} catch (Exception e) {
 			e.printStackTrace();
+		} finally {
+			if (admitted) admissionControl.complete(startNanos);
+			FlightRecording.commitDispatch(flightEvent, event, handlerCount, admission.name());
 		}
 		return false;
 	}
@@ -280,20 +611,46 @@ public class EventManager {
 	 * @param registeredEvents
 	 *            The {@link List} of {@link RegisteredEvent RegisteredEvents}
 	 *            that should be searched for the {@link Event} to call.
-	 * @return If the event is cancelled.
+	 * @return The number of methods that were invoked or routed into an
+	 *         {@link EventMailbox}.
 	 * @throws Exception
 	 *             (various exceptions)
 	 */
-	private static boolean callRegisteredMethods(Event event, List<RegisteredEvent> registeredEvents) throws Exception {
+	private static int callRegisteredMethods(Event event, List<RegisteredEvent> registeredEvents) throws Exception {
+		int invoked = 0;
 		for (int i = 0; i < registeredEvents.size(); i++) {
 			RegisteredEvent registeredEvent = registeredEvents.get(i);
 			EventListener listener = registeredEvent.getListener();
-			Method method = registeredEvent.getMethod();
 
 			if (registeredEvent.getEventClass() != event.getClass() || !registeredListeners.contains(listener.getClass())) continue;
-			method.invoke(listener, event);
+			invoked++;
+			if (registeredEvent.hasTarget()) {
+				getEventMailbox(registeredEvent.getTarget()).enqueue(registeredEvent, event);
+				continue;
+			}
+			invokeRegisteredEvent(registeredEvent, event);
+		}
+		return invoked;
+	}
+
+	/**
+	 * Invokes a single {@link RegisteredEvent}, recording it with a
+	 * {@link HandlerFlightEvent} whether or not the method threw an exception.
+	 * 
+	 * @param registeredEvent
+	 *            The {@link RegisteredEvent} to invoke.
+	 * @param event
+	 *            The {@link Event} that is being called.
+	 * @throws InvocationTargetException
+	 *             If the method threw an exception.
+	 */
+	static void invokeRegisteredEvent(RegisteredEvent registeredEvent, Event event) throws InvocationTargetException {
+		Object flightEvent = FlightRecording.beginHandler();
+		try {
+			registeredEvent.invoke(event);
+		} finally {
+			FlightRecording.commitHandler(flightEvent, registeredEvent, event);
 		}
-		return event.isCancelled();
 	}
 
 	/**
@@ -345,4 +702,106 @@ public class EventManager {
 			return true;
 		}
 	}
+
+	/**
+	 * A helper to compose and cache the dispatcher of each {@link Event} class
+	 * for {@link EventManager#setCompiledDispatch(boolean)}.
+	 * 
+	 * @author Michael Musgrove
+	 */
+	private static class CompiledDispatchers {
+
+		private static final MethodHandle ENQUEUE;
+		private static volatile Map<Class<? extends Event>, MethodHandle> dispatchers = new ConcurrentHashMap<>();
+		private static volatile Map<Class<? extends Event>, MethodHandle> dispatchersWithoutLowPriority = new ConcurrentHashMap<>();
+
+		static {
+			try {
+				ENQUEUE = MethodHandles.lookup().findVirtual(EventMailbox.class, "enqueue", MethodType.methodType(void.class, RegisteredEvent.class, Event.class));
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		/**
+		 * Calls every {@link RegisteredEvent} of the {@link Event Event's}
+		 * class through its dispatcher, composing the dispatcher first if it
+		 * doesn't exist yet.
+		 * 
+		 * @param event
+		 *            The {@link Event} that is being called.
+		 * @param skipLowPriority
+		 *            If true, the {@link EventPriority#Low Low} priority
+		 *            methods are left out.
+		 * @return The number of methods that were invoked or routed into an
+		 *         {@link EventMailbox}.
+		 * @throws InvocationTargetException
+		 *             If any of the methods threw an exception, just like
+		 *             {@link RegisteredEvent#invoke(Event)}.
+		 */
+		public static int dispatch(Event event, boolean skipLowPriority) throws InvocationTargetException {
+			EventPriority lowestPriority = skipLowPriority ? EventPriority.Normal : EventPriority.Low;
+			Map<Class<? extends Event>, MethodHandle> cache = skipLowPriority ? dispatchersWithoutLowPriority : dispatchers;
+			MethodHandle dispatcher = cache.computeIfAbsent(event.getClass(), eventClass -> compile(eventClass, lowestPriority));
+			try {
+				return (int) dispatcher.invokeExact(event);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+
+		/**
+		 * Throws away every dispatcher, so they are composed again with the
+		 * current {@link RegisteredEvent RegisteredEvents}. The caches are
+		 * replaced rather than cleared, so a dispatcher that was still being
+		 * composed with the old {@link RegisteredEvent RegisteredEvents} ends
+		 * up in a cache that is no longer used.
+		 */
+		public static void invalidate() {
+			dispatchers = new ConcurrentHashMap<>();
+			dispatchersWithoutLowPriority = new ConcurrentHashMap<>();
+		}
+
+		/**
+		 * Composes the dispatcher for the specified {@link Event} class. It is
+		 * a {@link MethodHandle} of the type {@code (Event)int} that invokes
+		 * each {@link RegisteredEvent} of the class with its
+		 * {@link EventListener} bound in, in priority order, and returns the
+		 * number of methods it invoked. A {@link RegisteredEvent} with a
+		 * target is routed into its {@link EventMailbox} instead. Like the
+		 * search, every method is invoked even after the {@link Event} is
+		 * cancelled, so the caller checks {@link Event#isCancelled()} once the
+		 * dispatcher returns.
+		 * 
+		 * @param eventClass
+		 *            The {@link Event} class to compose the dispatcher for.
+		 * @param lowestPriority
+		 *            The lowest {@link EventPriority} of the methods to
+		 *            invoke.
+		 * @return The dispatcher.
+		 */
+		private static MethodHandle compile(Class<? extends Event> eventClass, EventPriority lowestPriority) {
+			List<MethodHandle> invokers = new ArrayList<>();
+			EventPriority[] priorities = EventPriority.values();
+			for (int i = lowestPriority.ordinal(); i < priorities.length; i++) {
+				List<RegisteredEvent> registeredEvents = PrioritizedEvents.getRegisteredEvents(priorities[i]);
+				for (int j = 0; j < registeredEvents.size(); j++) {
+					RegisteredEvent registeredEvent = registeredEvents.get(j);
+					EventListener listener = registeredEvent.getListener();
+					if (registeredEvent.getEventClass() != eventClass || !registeredListeners.contains(listener.getClass())) continue;
+					if (registeredEvent.hasTarget()) {
+						invokers.add(ENQUEUE.bindTo(getEventMailbox(registeredEvent.getTarget())).bindTo(registeredEvent));
+					} else {
+						invokers.add(registeredEvent.getInvoker().bindTo(listener));
+					}
+				}
+			}
+
+			MethodHandle dispatcher = MethodHandles.dropArguments(MethodHandles.constant(int.class, invokers.size()), 0, Event.class);
+			for (int i = invokers.size() - 1; i >= 0; i--) {
+				dispatcher = MethodHandles.foldArguments(dispatcher, invokers.get(i));
+			}
+			return dispatcher;
+		}
+	}
 }
@@ -18,6 +18,8 @@
  */
 package ecrosogames.eventlib.main;
 
+import java.lang.reflect.Constructor;
+
 /**
  * Simple utilities to help make conversions and receive certain information.
  * 
@@ -32,4 +34,114 @@ public class EventUtilities {
 		}
 		return arrayOfClasses;
 	}
+
+	/**
+	 * Finds the declared Constructor of the specified class that can take the
+	 * specified arguments. A Constructor whose parameters exactly match the
+	 * classes of the arguments, as found by
+	 * {@link #getArrayOfClasses(Object...)}, is always chosen first. If there
+	 * is none, a boxed argument will match a primitive parameter, a subclass
+	 * will match its superclass, and a {@code null} argument will match any
+	 * Object parameter, and the most specific of those Constructors is chosen.
+	 * 
+	 * @param clazz
+	 *            The class to search the Constructors of.
+	 * @param arguments
+	 *            The arguments that will be passed to the Constructor.
+	 * @return The Constructor that can take the arguments.
+	 * @throws NoSuchMethodException
+	 *             If none of the Constructors can take the arguments.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Constructor<T> getConstructor(Class<T> clazz, Object... arguments) throws NoSuchMethodException {
+		if (!containsNull(arguments)) {
+			try {
+				return clazz.getDeclaredConstructor(getArrayOfClasses(arguments));
+			} catch (NoSuchMethodException e) {
+				// Fall back to the Constructors that can take the arguments.
+			}
+		}
+
+		Constructor<?> best = null;
+		Constructor<?>[] constructors = clazz.getDeclaredConstructors();
+		for (int i = 0; i < constructors.length; i++) {
+			Constructor<?> constructor = constructors[i];
+			Class<?>[] parameters = constructor.getParameterTypes();
+			if (parameters.length != arguments.length) continue;
+			boolean matches = true;
+			for (int j = 0; j < parameters.length && matches; j++) {
+				matches = isAssignable(parameters[j], arguments[j]);
+			}
+			if (matches && (best == null || isMoreSpecific(parameters, best.getParameterTypes()))) best = constructor;
+		}
+		if (best == null) throw new NoSuchMethodException(clazz.getName() + " has no Constructor that takes " + arguments.length + " matching argument(s)");
+		return (Constructor<T>) best;
+	}
+
+	/**
+	 * Returns whether or not any of the specified arguments are {@code null}.
+	 * 
+	 * @param arguments
+	 *            The arguments to check.
+	 * @return
+	 */
+	private static boolean containsNull(Object... arguments) {
+		for (int i = 0; i < arguments.length; i++) {
+			if (arguments[i] == null) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether or not every one of the specified parameters can be
+	 * passed to the parameter in the same place of the other parameters.
+	 * 
+	 * @param parameters
+	 *            The parameters to check are more specific.
+	 * @param otherParameters
+	 *            The parameters to check against, of the same length.
+	 * @return
+	 */
+	private static boolean isMoreSpecific(Class<?>[] parameters, Class<?>[] otherParameters) {
+		for (int i = 0; i < parameters.length; i++) {
+			if (!otherParameters[i].isAssignableFrom(parameters[i])) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether or not the specified argument can be passed to a
+	 * parameter of the specified type, unboxing it if the parameter is
+	 * primitive.
+	 * 
+	 * @param parameter
+	 *            The type of the parameter.
+	 * @param argument
+	 *            The argument to check.
+	 * @return
+	 */
+	private static boolean isAssignable(Class<?> parameter, Object argument) {
+		if (!parameter.isPrimitive()) return argument == null || parameter.isInstance(argument);
+		if (argument == null) return false;
+		return getWrapperClass(parameter) == argument.getClass();
+	}
+
+	/**
+	 * Returns the wrapper class of the specified primitive class.
+	 * 
+	 * @param primitive
+	 *            The primitive class, such as {@code int.class}.
+	 * @return The wrapper class, such as {@code Integer.class}.
+	 */
+	private static Class<?> getWrapperClass(Class<?> primitive) {
+		if (primitive == int.class) return Integer.class;
+		if (primitive == long.class) return Long.class;
+		if (primitive == boolean.class) return Boolean.class;
+		if (primitive == double.class) return Double.class;
+		if (primitive == float.class) return Float.class;
+		if (primitive == short.class) return Short.class;
+		if (primitive == byte.class) return Byte.class;
+		if (primitive == char.class) return Character.class;
+		return Void.class;
+	}
 }
@@ -0,0 +1,127 @@
+/*
+ * EGEventLib - A lightweight Java Event Managing System for handling your
+ * program's events using Annotations. Copyright (C) 2015 Michael Musgrove
+ * 
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ * 
+ */
+package ecrosogames.eventlib.main;
+
+/**
+ * The only place that touches the Java Flight Recorder. The library targets
+ * Java 8, where the {@code jdk.jfr} package only exists since update 262, so
+ * the {@link DispatchFlightEvent} and {@link HandlerFlightEvent} are only
+ * loaded when it's available; otherwise nothing is recorded. The flight events
+ * are passed around as Objects, so the {@link EventManager} never links
+ * against them.
+ * 
+ * @author Michael Musgrove
+ */
+final class FlightRecording {
+
+	private static final boolean available = isAvailable();
+
+	private FlightRecording() {
+	}
+
+	/**
+	 * Begins a {@link DispatchFlightEvent} for a call to the
+	 * {@link EventManager}.
+	 * 
+	 * @return The flight event, or {@code null} if the Java Flight Recorder
+	 *         isn't available.
+	 */
+	static Object beginDispatch() {
+		if (!available) return null;
+		DispatchFlightEvent flightEvent = new DispatchFlightEvent();
+		flightEvent.begin();
+		return flightEvent;
+	}
+
+	/**
+	 * Commits a flight event that was begun by {@link #beginDispatch()}, if
+	 * the recording has it enabled.
+	 * 
+	 * @param recording
+	 *            The flight event returned by {@link #beginDispatch()}.
+	 * @param event
+	 *            The {@link Event} that was called.
+	 * @param handlerCount
+	 *            The number of methods that were invoked.
+	 * @param admission
+	 *            What the {@link AdmissionControl} decided to do with the call.
+	 */
+	static void commitDispatch(Object recording, Event event, int handlerCount, String admission) {
+		if (recording == null) return;
+		DispatchFlightEvent flightEvent = (DispatchFlightEvent) recording;
+		if (flightEvent.shouldCommit()) {
+			flightEvent.eventClass = event.getClass();
+			flightEvent.handlerCount = handlerCount;
+			flightEvent.cancelled = event.isCancelled();
+			flightEvent.admission = admission;
+			flightEvent.commit();
+		}
+	}
+
+	/**
+	 * Begins a {@link HandlerFlightEvent} for a single invoked
+	 * {@link RegisteredEvent}.
+	 * 
+	 * @return The flight event, or {@code null} if the Java Flight Recorder
+	 *         isn't available.
+	 */
+	static Object beginHandler() {
+		if (!available) return null;
+		HandlerFlightEvent flightEvent = new HandlerFlightEvent();
+		flightEvent.begin();
+		return flightEvent;
+	}
+
+	/**
+	 * Commits a flight event that was begun by {@link #beginHandler()}, if
+	 * the recording has it enabled.
+	 * 
+	 * @param recording
+	 *            The flight event returned by {@link #beginHandler()}.
+	 * @param registeredEvent
+	 *            The {@link RegisteredEvent} that was invoked.
+	 * @param event
+	 *            The {@link Event} that it was invoked with.
+	 */
+	static void commitHandler(Object recording, RegisteredEvent registeredEvent, Event event) {
+		if (recording == null) return;
+		HandlerFlightEvent flightEvent = (HandlerFlightEvent) recording;
+		if (flightEvent.shouldCommit()) {
+			flightEvent.eventClass = event.getClass();
+			flightEvent.listenerClass = registeredEvent.getListener().getClass();
+			flightEvent.method = registeredEvent.getMethod().getName();
+			flightEvent.priority = registeredEvent.getPriority().name();
+			flightEvent.commit();
+		}
+	}
+
+	/**
+	 * Returns whether or not the {@code jdk.jfr} package can be loaded.
+	 * 
+	 * @return
+	 */
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecording.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * EGEventLib - A lightweight Java Event Managing System for handling your
+ * program's events using Annotations. Copyright (C) 2015 Michael Musgrove
+ * 
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ * 
+ */
+package ecrosogames.eventlib.main;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event that is committed once for every
+ * {@link RegisteredEvent} that is invoked. It's disabled by default, since it
+ * is far more frequent than the {@link DispatchFlightEvent}, and has to be
+ * turned on by the recording's settings.
+ * 
+ * @author Michael Musgrove
+ */
+@Name("ecrosogames.eventlib.HandlerInvocation")
+@Label("Event Handler Invocation")
+@Category("EGEventLib")
+@Description("An invocation of a single EventHandler method")
+@StackTrace(false)
+@Enabled(false)
+final class HandlerFlightEvent extends jdk.jfr.Event {
+
+	@Label("Event Class")
+	Class<?> eventClass;
+
+	@Label("Listener Class")
+	Class<?> listenerClass;
+
+	@Label("Method")
+	String method;
+
+	@Label("Priority")
+	String priority;
+}
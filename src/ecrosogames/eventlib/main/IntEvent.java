@@ -0,0 +1,51 @@
+/*
+ * EGEventLib - A lightweight Java Event Managing System for handling your
+ * program's events using Annotations. Copyright (C) 2015 Michael Musgrove
+ * 
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ * 
+ */
+package ecrosogames.eventlib.main;
+
+/**
+ * An {@link Event} that carries a single {@code int} as its payload. Calling it
+ * through {@link EventManager#callInt(Class, int)} hands the value from the
+ * producer to the handlers without boxing it or allocating an argument array.
+ * Subclasses must have a constructor that takes no arguments.
+ * 
+ * @author Michael Musgrove
+ */
+public abstract class IntEvent extends Event {
+
+	private int value;
+
+	/**
+	 * Returns the int payload of this event.
+	 * 
+	 * @return
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Sets the int payload of this event.
+	 * 
+	 * @param value
+	 *            The new payload.
+	 */
+	public void setValue(int value) {
+		this.value = value;
+	}
+}
@@ -18,7 +18,12 @@
  */
 package ecrosogames.eventlib.main;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
  * An {@link Event} that has been registered.
@@ -31,6 +36,8 @@ public class RegisteredEvent {
 	private Method method;
 	private Class<? extends Event> eventClass;
 	private EventPriority priority;
+	private String target;
+	private MethodHandle invoker;
 
 	/**
 	 * Creates a new RegisteredEvent.
@@ -44,12 +51,89 @@ public class RegisteredEvent {
 	 *            The {@link Event} that the <code>method</code> is from.
 	 * @param priority
 	 *            The {@link EventPriority} of the RegisteredListener.
+	 * @throws IllegalArgumentException
+	 *             If the <code>method</code> can not be made accessible.
 	 */
 	public RegisteredEvent(EventListener listener, Method method, Class<? extends Event> eventClass, EventPriority priority) {
+		this(listener, method, eventClass, priority, "");
+	}
+
+	/**
+	 * Creates a new RegisteredEvent that runs on the specified target.
+	 * 
+	 * @param listener
+	 *            The {@link EventListener} that is registered for this event.
+	 * @param method
+	 *            The {@link Method} that was registered to the
+	 *            {@link EventListener}.
+	 * @param eventClass
+	 *            The {@link Event} that the <code>method</code> is from.
+	 * @param priority
+	 *            The {@link EventPriority} of the RegisteredListener.
+	 * @param target
+	 *            The name of the {@link EventMailbox} that the
+	 *            <code>method</code> runs from, or an empty String if it runs
+	 *            inline.
+	 * @throws IllegalArgumentException
+	 *             If the <code>method</code> can not be made accessible.
+	 */
+	public RegisteredEvent(EventListener listener, Method method, Class<? extends Event> eventClass, EventPriority priority, String target) {
 		this.listener = listener;
 		this.method = method;
 		this.eventClass = eventClass;
 		this.priority = priority;
+		this.target = target;
+		this.invoker = createInvoker(method);
+	}
+
+	/**
+	 * Creates a {@link MethodHandle} of the type
+	 * {@code (EventListener, Event)void} for the specified {@link Method}, so it
+	 * can be invoked without the argument array that
+	 * {@link Method#invoke(Object, Object...)} allocates.
+	 * 
+	 * @param method
+	 *            The {@link Method} to create the invoker for.
+	 * @return The invoker.
+	 * @throws IllegalArgumentException
+	 *             If the {@link Method} can not be made accessible.
+	 */
+	private static MethodHandle createInvoker(Method method) {
+		try {
+			method.setAccessible(true);
+			MethodHandle handle = MethodHandles.lookup().unreflect(method);
+			if (Modifier.isStatic(method.getModifiers())) handle = MethodHandles.dropArguments(handle, 0, EventListener.class);
+			return handle.asType(MethodType.methodType(void.class, EventListener.class, Event.class));
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException("The method " + method + " can not be made accessible", e);
+		}
+	}
+
+	/**
+	 * Returns the invoker of this RegisteredListener, of the type
+	 * {@code (EventListener, Event)void}.
+	 * 
+	 * @return
+	 */
+	MethodHandle getInvoker() {
+		return invoker;
+	}
+
+	/**
+	 * Invokes the {@link Method} of this RegisteredListener on its
+	 * {@link EventListener}.
+	 * 
+	 * @param event
+	 *            The {@link Event} to pass to the {@link Method}.
+	 * @throws InvocationTargetException
+	 *             If the {@link Method} threw an exception.
+	 */
+	public void invoke(Event event) throws InvocationTargetException {
+		try {
+			invoker.invokeExact(listener, event);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
 	}
 
 	/**
@@ -87,4 +171,24 @@ public class RegisteredEvent {
 	public EventPriority getPriority() {
 		return priority;
 	}
+
+	/**
+	 * Returns the name of the {@link EventMailbox} for this
+	 * RegisteredListener.
+	 * 
+	 * @return The name, or an empty String if it runs inline.
+	 */
+	public String getTarget() {
+		return target;
+	}
+
+	/**
+	 * Returns whether or not this RegisteredListener runs from an
+	 * {@link EventMailbox} instead of inline.
+	 * 
+	 * @return
+	 */
+	public boolean hasTarget() {
+		return !target.isEmpty();
+	}
 }
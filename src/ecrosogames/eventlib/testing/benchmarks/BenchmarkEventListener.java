@@ -0,0 +1,39 @@
+package ecrosogames.eventlib.testing.benchmarks;
+
+import ecrosogames.eventlib.main.EventHandler;
+import ecrosogames.eventlib.main.EventListener;
+import ecrosogames.eventlib.main.EventPriority;
+
+public class BenchmarkEventListener implements EventListener {
+
+	private long sum;
+
+	@EventHandler(EventPriority.Low)
+	public void low(PulseEvent event) {
+		sum += event.getValue();
+	}
+
+	@EventHandler
+	public void normal(PulseEvent event) {
+		sum ^= event.getValue();
+	}
+
+	@EventHandler(EventPriority.High)
+	public void high(PulseEvent event) {
+		sum -= event.getValue() >> 1;
+	}
+
+	@EventHandler(EventPriority.Low)
+	public void idleLow(IdleEvent event) {
+		sum++;
+	}
+
+	@EventHandler(EventPriority.High)
+	public void idleHigh(IdleEvent event) {
+		sum--;
+	}
+
+	public long getSum() {
+		return sum;
+	}
+}
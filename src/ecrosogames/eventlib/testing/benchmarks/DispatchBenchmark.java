@@ -0,0 +1,48 @@
+package ecrosogames.eventlib.testing.benchmarks;
+
+import ecrosogames.eventlib.main.EventManager;
+
+/**
+ * Measures the average time of a call through the {@link EventManager}, first
+ * with the search of every registered method, then with the compiled
+ * dispatchers of {@link EventManager#setCompiledDispatch(boolean)}. Pass the
+ * number of calls per round as the first argument.
+ */
+public class DispatchBenchmark {
+
+	private static final int ROUNDS = 10;
+
+	public static void main(String... args) {
+		int calls = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+		BenchmarkEventListener listener = new BenchmarkEventListener();
+		EventManager.registerEventClass(PulseEvent.class);
+		EventManager.registerEventClass(IdleEvent.class);
+		EventManager.registerEventListener(listener);
+
+		EventManager.setCompiledDispatch(false);
+		double search = measure(calls);
+		EventManager.setCompiledDispatch(true);
+		double compiled = measure(calls);
+
+		System.out.printf("Search:   %.1f ns/call%n", search);
+		System.out.printf("Compiled: %.1f ns/call%n", compiled);
+		System.out.println("(checksum " + listener.getSum() + ")");
+	}
+
+	/**
+	 * Calls the {@link PulseEvent} for the specified number of times in each
+	 * round, and returns the average time of a call in the fastest round.
+	 */
+	private static double measure(int calls) {
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < calls; i++) {
+				EventManager.callInt(PulseEvent.class, i);
+			}
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return (double) best / calls;
+	}
+}
@@ -0,0 +1,45 @@
+package ecrosogames.eventlib.testing.benchmarks;
+
+import ecrosogames.eventlib.main.EventHandler;
+import ecrosogames.eventlib.main.EventImportance;
+import ecrosogames.eventlib.main.EventPriority;
+
+/**
+ * Handles the events of the {@link OverloadBenchmark} inline, on the thread
+ * that calls them, so each call takes as long as its methods do and the
+ * latency budget of the {@link ecrosogames.eventlib.main.AdmissionControl
+ * AdmissionControl} decides what is dropped.
+ */
+public class InlineOverloadEventListener extends OverloadEventListener {
+
+	public InlineOverloadEventListener(int capacity) {
+		super(capacity);
+	}
+
+	@Override
+	@EventHandler(EventPriority.High)
+	public void telemetry(TelemetryEvent event) {
+		spin(TELEMETRY_COST);
+		record(EventImportance.Low, event.getValue());
+	}
+
+	@Override
+	@EventHandler(EventPriority.Low)
+	public void gameplayEffects(GameplayEvent event) {
+		spin(EFFECTS_COST);
+	}
+
+	@Override
+	@EventHandler(EventPriority.High)
+	public void gameplay(GameplayEvent event) {
+		spin(GAMEPLAY_COST);
+		record(EventImportance.Normal, event.getValue());
+	}
+
+	@Override
+	@EventHandler(EventPriority.High)
+	public void input(InputEvent event) {
+		spin(INPUT_COST);
+		record(EventImportance.Critical, event.getValue());
+	}
+}
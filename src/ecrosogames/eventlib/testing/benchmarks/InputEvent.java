@@ -0,0 +1,6 @@
+package ecrosogames.eventlib.testing.benchmarks;
+
+import ecrosogames.eventlib.main.LongEvent;
+
+public class InputEvent extends LongEvent {
+}
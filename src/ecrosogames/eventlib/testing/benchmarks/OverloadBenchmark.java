@@ -0,0 +1,133 @@
+package ecrosogames.eventlib.testing.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import ecrosogames.eventlib.main.AdmissionControl;
+import ecrosogames.eventlib.main.EventImportance;
+import ecrosogames.eventlib.main.EventManager;
+
+/**
+ * Offers events at a fixed rate of ten times what the handlers can keep up
+ * with, the way a burst of network traffic would arrive, first with the
+ * {@link AdmissionControl} disabled and then with it enabled. The latency of
+ * each event is measured from when it was scheduled to arrive to when its
+ * last method finished. Pass the length of the burst in milliseconds as the
+ * first argument, and the scenario as the second:
+ * <ul>
+ * <li>{@code mailbox}, the default, routes the events into the "main"
+ * {@link ecrosogames.eventlib.main.EventMailbox EventMailbox}, which a game loop
+ * drains between arrivals. A call only enqueues, so the backlog limit is what
+ * drops events.</li>
+ * <li>{@code inline} runs the methods on the calling thread, so a call takes
+ * as long as its methods do, and the latency budget is what drops
+ * events.</li>
+ * </ul>
+ */
+public class OverloadBenchmark {
+
+	private static final int LOAD = 10;
+	private static final int WARMUP_RUNS = 3;
+	private static final long BUDGET_MICROS = 5;
+	private static final long INLINE_BUDGET_MICROS = 10;
+	private static final int MAX_BACKLOG = 50;
+
+	public static void main(String... args) {
+		long duration = TimeUnit.MILLISECONDS.toNanos(args.length > 0 ? Long.parseLong(args[0]) : 500);
+		boolean inline = args.length > 1 && args[1].equals("inline");
+		long budget = inline ? INLINE_BUDGET_MICROS : BUDGET_MICROS;
+
+		// 80% telemetry, 15% gameplay and 5% input, as chosen by kind(int).
+		long meanCost = (16 * OverloadEventListener.TELEMETRY_COST + 3 * (OverloadEventListener.EFFECTS_COST + OverloadEventListener.GAMEPLAY_COST) + OverloadEventListener.INPUT_COST) / 20;
+		long interval = meanCost / LOAD;
+		int arrivals = (int) (duration / interval);
+		System.out.printf("Capacity %.0f events/s, offering %.0f events/s for %dms%n", 1e9 / meanCost, 1e9 / interval, TimeUnit.NANOSECONDS.toMillis(duration));
+
+		OverloadEventListener listener = inline ? new InlineOverloadEventListener(arrivals) : new OverloadEventListener(arrivals);
+		EventManager.registerEventMailbox("main");
+		EventManager.registerEventClass(TelemetryEvent.class, EventImportance.Low);
+		EventManager.registerEventClass(GameplayEvent.class, EventImportance.Normal);
+		EventManager.registerEventClass(InputEvent.class, EventImportance.Critical);
+		EventManager.registerEventListener(listener);
+
+		AdmissionControl admissionControl = EventManager.getAdmissionControl();
+		if (!inline) admissionControl.setMaxBacklog(MAX_BACKLOG);
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			admissionControl.setLatencyBudget(budget, TimeUnit.MICROSECONDS);
+			run(listener, arrivals, interval, false);
+		}
+
+		admissionControl.setLatencyBudget(0, TimeUnit.MICROSECONDS);
+		System.out.println("Without admission control:");
+		run(listener, arrivals, interval, true);
+		admissionControl.setLatencyBudget(budget, TimeUnit.MICROSECONDS);
+		System.out.println("With a " + budget + "us budget" + (inline ? "" : " and a backlog of " + MAX_BACKLOG) + ":");
+		run(listener, arrivals, interval, true);
+		System.out.println(admissionControl);
+	}
+
+	/**
+	 * Calls each event at its scheduled time, or as soon as the game loop gets
+	 * to it, and drains the "main" mailbox in between. The results are only
+	 * printed if <code>print</code> is true, so warm-up runs stay quiet.
+	 */
+	private static void run(OverloadEventListener listener, int arrivals, long interval, boolean print) {
+		listener.reset();
+		EventManager.getAdmissionControl().resetCounts();
+		long start = System.nanoTime();
+		int arrival = 0;
+		while (arrival < arrivals) {
+			long now = System.nanoTime();
+			for (long scheduled = start + arrival * interval; arrival < arrivals && scheduled <= now; scheduled += interval) {
+				call(arrival++, scheduled);
+			}
+			EventManager.drainEventMailbox("main");
+		}
+		EventManager.drainEventMailbox("main");
+		if (!print) return;
+
+		long[] all = new long[0];
+		for (EventImportance importance : EventImportance.values()) {
+			long[] latencies = listener.getLatencies(importance);
+			print(importance.name(), latencies, EventManager.getAdmissionControl().getShedCount(importance));
+			all = concat(all, latencies);
+		}
+		print("All", all, -1);
+	}
+
+	private static void call(int arrival, long scheduled) {
+		switch (kind(arrival)) {
+		case Low:
+			EventManager.callLong(TelemetryEvent.class, scheduled);
+			break;
+		case Normal:
+			EventManager.callLong(GameplayEvent.class, scheduled);
+			break;
+		case Critical:
+			EventManager.callLong(InputEvent.class, scheduled);
+			break;
+		}
+	}
+
+	private static EventImportance kind(int arrival) {
+		int slot = arrival % 20;
+		if (slot == 0) return EventImportance.Critical;
+		if (slot <= 3) return EventImportance.Normal;
+		return EventImportance.Low;
+	}
+
+	private static long[] concat(long[] first, long[] second) {
+		long[] result = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+
+	private static void print(String name, long[] latencies, long shed) {
+		Arrays.sort(latencies);
+		if (latencies.length == 0) {
+			System.out.printf("  %-8s called %7d  shed %7d%n", name, 0, shed);
+			return;
+		}
+		System.out.printf("  %-8s called %7d  %s p50 %9.1fus  p99 %9.1fus  max %9.1fus%n", name, latencies.length, shed < 0 ? "            " : String.format("shed %7d", shed), latencies[latencies.length / 2] / 1000.0, latencies[latencies.length * 99 / 100] / 1000.0, latencies[latencies.length - 1] / 1000.0);
+	}
+}
@@ -0,0 +1,71 @@
+package ecrosogames.eventlib.testing.benchmarks;
+
+import java.util.Arrays;
+
+import ecrosogames.eventlib.main.EventHandler;
+import ecrosogames.eventlib.main.EventImportance;
+import ecrosogames.eventlib.main.EventListener;
+import ecrosogames.eventlib.main.EventPriority;
+
+/**
+ * Handles the events of the {@link OverloadBenchmark} on the "main" target,
+ * spinning for the cost of each method, and records how long after its
+ * scheduled time each event finished.
+ */
+public class OverloadEventListener implements EventListener {
+
+	public static final long TELEMETRY_COST = 20_000;
+	public static final long EFFECTS_COST = 20_000;
+	public static final long GAMEPLAY_COST = 2_000;
+	public static final long INPUT_COST = 2_000;
+
+	private final long[][] latencies = new long[EventImportance.values().length][];
+	private final int[] counts = new int[latencies.length];
+
+	public OverloadEventListener(int capacity) {
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = new long[capacity];
+		}
+	}
+
+	@EventHandler(value = EventPriority.High, target = "main")
+	public void telemetry(TelemetryEvent event) {
+		spin(TELEMETRY_COST);
+		record(EventImportance.Low, event.getValue());
+	}
+
+	@EventHandler(value = EventPriority.Low, target = "main")
+	public void gameplayEffects(GameplayEvent event) {
+		spin(EFFECTS_COST);
+	}
+
+	@EventHandler(value = EventPriority.High, target = "main")
+	public void gameplay(GameplayEvent event) {
+		spin(GAMEPLAY_COST);
+		record(EventImportance.Normal, event.getValue());
+	}
+
+	@EventHandler(value = EventPriority.High, target = "main")
+	public void input(InputEvent event) {
+		spin(INPUT_COST);
+		record(EventImportance.Critical, event.getValue());
+	}
+
+	public long[] getLatencies(EventImportance importance) {
+		return Arrays.copyOf(latencies[importance.ordinal()], counts[importance.ordinal()]);
+	}
+
+	public void reset() {
+		Arrays.fill(counts, 0);
+	}
+
+	protected void record(EventImportance importance, long scheduled) {
+		latencies[importance.ordinal()][counts[importance.ordinal()]++] = System.nanoTime() - scheduled;
+	}
+
+	protected void spin(long nanos) {
+		long end = System.nanoTime() + nanos;
+		while (System.nanoTime() < end) {
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package ecrosogames.eventlib.testing.examples.example1;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import ecrosogames.eventlib.main.EventManager;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records a few {@link TelemetryEvent} calls with Java Flight Recorder, using
+ * the sample {@code eventlib.jfc} settings, then parses the recording and
+ * checks that the dispatch events made it in. Run it from the project root, or
+ * pass the path of the settings file as the first argument.
+ */
+public class EGEventLibExample1 {
+
+	private static final int CALLS = 100;
+
+	public static void main(String... args) throws Exception {
+		Path settings = Paths.get(args.length > 0 ? args[0] : "eventlib.jfc");
+
+		EventManager.registerEventClass(TelemetryEvent.class);
+		EventManager.registerEventListener(new Example1EventListener());
+
+		Path output = Files.createTempFile("eventlib", ".jfr");
+		try (Recording recording = new Recording(Configuration.create(settings))) {
+			recording.start();
+			for (int i = 0; i < CALLS; i++) {
+				EventManager.call(TelemetryEvent.class, i % 2 == 0 ? "tick" : "");
+			}
+			recording.stop();
+			recording.dump(output);
+		}
+
+		int dispatches = 0, cancelled = 0, invocations = 0;
+		for (RecordedEvent recorded : RecordingFile.readAllEvents(output)) {
+			String name = recorded.getEventType().getName();
+			if (name.equals("ecrosogames.eventlib.Dispatch")) {
+				if (recorded.getInt("handlerCount") != 2) throw new AssertionError("Unexpected handler count: " + recorded);
+				if (recorded.getBoolean("cancelled")) cancelled++;
+				dispatches++;
+			} else if (name.equals("ecrosogames.eventlib.HandlerInvocation")) {
+				invocations++;
+			}
+		}
+		Files.delete(output);
+
+		System.out.println("Dispatches: " + dispatches + " (" + cancelled + " cancelled), handler invocations: " + invocations);
+		if (dispatches != CALLS || cancelled != CALLS / 2 || invocations != CALLS * 2) throw new AssertionError("The recording is missing events!");
+	}
+}
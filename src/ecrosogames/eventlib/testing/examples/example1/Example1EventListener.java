@@ -0,0 +1,17 @@
+package ecrosogames.eventlib.testing.examples.example1;
+
+import ecrosogames.eventlib.main.EventHandler;
+import ecrosogames.eventlib.main.EventListener;
+import ecrosogames.eventlib.main.EventPriority;
+
+public class Example1EventListener implements EventListener {
+
+	@EventHandler(EventPriority.Low)
+	public void filter(TelemetryEvent event) {
+		if (event.getName().isEmpty()) event.setCancelled(true);
+	}
+
+	@EventHandler(EventPriority.High)
+	public void record(TelemetryEvent event) {
+	}
+}
@@ -0,0 +1,16 @@
+package ecrosogames.eventlib.testing.examples.example1;
+
+import ecrosogames.eventlib.main.Event;
+
+public class TelemetryEvent extends Event {
+
+	private String name;
+
+	public TelemetryEvent(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
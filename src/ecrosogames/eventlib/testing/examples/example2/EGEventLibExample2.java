@@ -0,0 +1,30 @@
+package ecrosogames.eventlib.testing.examples.example2;
+
+import ecrosogames.eventlib.main.EventManager;
+
+/**
+ * Sends numeric telemetry through the {@link EventManager}. The
+ * {@link FrameTimeEvent} is a primitive channel, so its {@code long} payload
+ * goes from the producer to the handler without being boxed, while the
+ * {@link ScoreEvent} shows that a boxed argument now finds a Constructor with
+ * a primitive parameter.
+ */
+public class EGEventLibExample2 {
+
+	public static void main(String... args) {
+		Example2EventListener listener = new Example2EventListener();
+		EventManager.registerEventClass(FrameTimeEvent.class);
+		EventManager.registerEventClass(ScoreEvent.class);
+		EventManager.registerEventListener(listener);
+
+		for (int i = 0; i < 60; i++) {
+			long start = System.nanoTime();
+			EventManager.callLong(FrameTimeEvent.class, System.nanoTime() - start);
+		}
+		EventManager.call(ScoreEvent.class, 10);
+		EventManager.call(event -> System.out.println("Scored " + event.getPoints() + " points"), new ScoreEvent(5));
+
+		System.out.println("Average frame time: " + listener.getAverageFrameTime() + "ns, score: " + listener.getScore());
+		if (listener.getScore() != 15) throw new AssertionError("The ScoreEvent wasn't handled!");
+	}
+}
@@ -0,0 +1,30 @@
+package ecrosogames.eventlib.testing.examples.example2;
+
+import ecrosogames.eventlib.main.EventHandler;
+import ecrosogames.eventlib.main.EventListener;
+
+public class Example2EventListener implements EventListener {
+
+	private long totalFrameTime;
+	private int frames;
+	private int score;
+
+	@EventHandler
+	public void frameTime(FrameTimeEvent event) {
+		totalFrameTime += event.getValue();
+		frames++;
+	}
+
+	@EventHandler
+	public void score(ScoreEvent event) {
+		score += event.getPoints();
+	}
+
+	public long getAverageFrameTime() {
+		return frames == 0 ? 0 : totalFrameTime / frames;
+	}
+
+	public int getScore() {
+		return score;
+	}
+}
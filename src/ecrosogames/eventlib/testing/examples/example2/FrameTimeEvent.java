@@ -0,0 +1,6 @@
+package ecrosogames.eventlib.testing.examples.example2;
+
+import ecrosogames.eventlib.main.LongEvent;
+
+public class FrameTimeEvent extends LongEvent {
+}
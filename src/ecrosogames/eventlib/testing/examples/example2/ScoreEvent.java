@@ -0,0 +1,16 @@
+package ecrosogames.eventlib.testing.examples.example2;
+
+import ecrosogames.eventlib.main.Event;
+
+public class ScoreEvent extends Event {
+
+	private int points;
+
+	public ScoreEvent(int points) {
+		this.points = points;
+	}
+
+	public int getPoints() {
+		return points;
+	}
+}
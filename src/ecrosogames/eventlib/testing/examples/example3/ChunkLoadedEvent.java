@@ -0,0 +1,6 @@
+package ecrosogames.eventlib.testing.examples.example3;
+
+import ecrosogames.eventlib.main.IntEvent;
+
+public class ChunkLoadedEvent extends IntEvent {
+}
@@ -0,0 +1,38 @@
+package ecrosogames.eventlib.testing.examples.example3;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import ecrosogames.eventlib.main.EventManager;
+
+/**
+ * Calls the {@link ChunkLoadedEvent} from a loader thread. The logging handler
+ * runs inline on the loader thread, the upload handler is drained by the
+ * render thread's {@link ExecutorService}, and the spawning handler waits in
+ * the "main" mailbox until the main thread drains it.
+ */
+public class EGEventLibExample3 {
+
+	public static void main(String... args) throws Exception {
+		ExecutorService renderThread = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "render"));
+		EventManager.registerEventMailbox("render", renderThread);
+		EventManager.registerEventMailbox("main");
+		EventManager.registerEventClass(ChunkLoadedEvent.class);
+		EventManager.registerEventListener(new Example3EventListener());
+
+		Thread loader = new Thread(() -> {
+			for (int chunk = 0; chunk < 3; chunk++) {
+				EventManager.callInt(ChunkLoadedEvent.class, chunk);
+			}
+		}, "loader");
+		loader.start();
+		loader.join();
+
+		int spawned = EventManager.drainEventMailbox("main");
+		renderThread.shutdown();
+		renderThread.awaitTermination(1, TimeUnit.SECONDS);
+
+		if (spawned != 3) throw new AssertionError("The main mailbox wasn't filled!");
+	}
+}
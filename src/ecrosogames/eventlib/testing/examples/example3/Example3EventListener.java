@@ -0,0 +1,23 @@
+package ecrosogames.eventlib.testing.examples.example3;
+
+import ecrosogames.eventlib.main.EventHandler;
+import ecrosogames.eventlib.main.EventListener;
+import ecrosogames.eventlib.main.EventPriority;
+
+public class Example3EventListener implements EventListener {
+
+	@EventHandler(EventPriority.Low)
+	public void log(ChunkLoadedEvent event) {
+		System.out.println("[" + Thread.currentThread().getName() + "] Loaded chunk " + event.getValue());
+	}
+
+	@EventHandler(target = "render")
+	public void upload(ChunkLoadedEvent event) {
+		System.out.println("[" + Thread.currentThread().getName() + "] Uploading chunk " + event.getValue());
+	}
+
+	@EventHandler(value = EventPriority.High, target = "main")
+	public void spawnEntities(ChunkLoadedEvent event) {
+		System.out.println("[" + Thread.currentThread().getName() + "] Spawning entities in chunk " + event.getValue());
+	}
+}